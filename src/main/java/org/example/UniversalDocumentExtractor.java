@@ -2,18 +2,20 @@ package org.example;
 
 import net.sourceforge.tess4j.Tesseract;
 import net.sourceforge.tess4j.TesseractException;
-import net.sourceforge.tess4j.util.LoadLibs;
+import org.example.ocr.FabricaMotorOCR;
+import org.example.ocr.PerfilOCR;
+import org.example.ocr.PreprocesadorImagen;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
 
 import javax.imageio.ImageIO;
-import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,7 +59,8 @@ public class UniversalDocumentExtractor {
     private static final Pattern APELLIDOS_PATTERN = Pattern.compile("(?i)(?:apellidos?|surname)[:\\s]*([A-ZÁÉÍÓÚÑ][A-Za-záéíóúñ\\s]+)");
     private static final Pattern DOMICILIO_PATTERN = Pattern.compile("(?i)(?:domicilio|dirección|address)[:\\s]*([A-Za-záéíóúñ0-9\\s,.-]+)");
 
-    private Tesseract tesseract;
+    // Un motor por tipo de documento, configurado según su PerfilOCR
+    private final Map<TipoDocumento, Tesseract> motores = new EnumMap<>(TipoDocumento.class);
 
     public static void main(String[] args) {
         UniversalDocumentExtractor extractor = new UniversalDocumentExtractor();
@@ -70,41 +73,24 @@ public class UniversalDocumentExtractor {
         extractor.procesarDocumento("documentos/contrato.pdf", TipoDocumento.CONTRATO);
 
         System.out.println("\n=== PROCESANDO FACTURA ===");
-        extractor.procesarDocumento("imagenes/factura.jpg", TipoDocumento.FACTURA);
-    }
-
-    public UniversalDocumentExtractor() {
-        this.tesseract = configurarTesseract();
+        extractor.procesarDocumento("imagenes/factura.png", TipoDocumento.FACTURA);
     }
 
     public void procesarDocumento(String rutaArchivo, TipoDocumento tipoDocumento) {
         try {
-            List<BufferedImage> imagenes = cargarDocumento(rutaArchivo);
+            String textoCompleto = extraerTexto(rutaArchivo, tipoDocumento);
 
-            if (imagenes.isEmpty()) {
+            if (textoCompleto == null) {
                 System.err.println("No se pudieron cargar las imágenes del documento: " + rutaArchivo);
                 return;
             }
 
-            StringBuilder textoCompleto = new StringBuilder();
-
-            // Procesar cada página/imagen
-            for (int i = 0; i < imagenes.size(); i++) {
-                System.out.println("Procesando página/imagen " + (i + 1) + " de " + imagenes.size());
-
-                BufferedImage imagenProcesada = preprocesarImagen(imagenes.get(i), tipoDocumento);
-                String textoPagina = tesseract.doOCR(imagenProcesada);
-
-                textoCompleto.append("=== PÁGINA ").append(i + 1).append(" ===\n");
-                textoCompleto.append(textoPagina).append("\n\n");
-            }
-
             System.out.println("=== TEXTO EXTRAÍDO ===");
-            System.out.println(textoCompleto.toString());
+            System.out.println(textoCompleto);
             System.out.println("=====================");
 
             // Extraer información según el tipo de documento
-            extraerInformacionEspecifica(textoCompleto.toString(), tipoDocumento);
+            extraerInformacionEspecifica(textoCompleto, tipoDocumento);
 
         } catch (Exception e) {
             System.err.println("Error procesando documento: " + e.getMessage());
@@ -112,6 +98,50 @@ public class UniversalDocumentExtractor {
         }
     }
 
+    /**
+     * Extrae el texto de todas las páginas con el perfil del tipo de documento.
+     * Devuelve null si el documento no se pudo cargar.
+     */
+    public String extraerTexto(String rutaArchivo, TipoDocumento tipoDocumento)
+            throws IOException, TesseractException {
+        PerfilOCR perfil = PerfilOCR.paraTipo(tipoDocumento);
+        List<BufferedImage> paginas = cargarPaginas(rutaArchivo, perfil);
+
+        if (paginas.isEmpty()) {
+            return null;
+        }
+
+        Tesseract tesseract = motores.computeIfAbsent(tipoDocumento, tipo -> FabricaMotorOCR.crear(perfil));
+        StringBuilder textoCompleto = new StringBuilder();
+
+        // Procesar cada página/imagen
+        for (int i = 0; i < paginas.size(); i++) {
+            System.out.println("Procesando página/imagen " + (i + 1) + " de " + paginas.size());
+
+            String textoPagina = tesseract.doOCR(paginas.get(i));
+
+            textoCompleto.append("=== PÁGINA ").append(i + 1).append(" ===\n");
+            textoCompleto.append(textoPagina).append("\n\n");
+        }
+
+        return textoCompleto.toString();
+    }
+
+    /**
+     * Carga el documento y aplica a cada página la cadena de preprocesado del
+     * perfil, dejándolas listas para el OCR. Devuelve una lista vacía si el
+     * documento no se pudo cargar.
+     */
+    public List<BufferedImage> cargarPaginas(String rutaArchivo, PerfilOCR perfil) throws IOException {
+        List<BufferedImage> paginas = new ArrayList<>();
+
+        for (BufferedImage imagen : cargarDocumento(rutaArchivo)) {
+            paginas.add(PreprocesadorImagen.aplicar(imagen, perfil));
+        }
+
+        return paginas;
+    }
+
     private List<BufferedImage> cargarDocumento(String rutaArchivo) throws IOException {
         List<BufferedImage> imagenes = new ArrayList<>();
 
@@ -159,158 +189,6 @@ public class UniversalDocumentExtractor {
         return imagenes;
     }
 
-    private Tesseract configurarTesseract() {
-        Tesseract tess = new Tesseract();
-
-        try {
-            ClassLoader classLoader = getClass().getClassLoader();
-            URL tessdataURL = classLoader.getResource("tessdata");
-
-            if (tessdataURL != null) {
-                String tessdataPath = new File(tessdataURL.getFile()).getAbsolutePath();
-                tess.setDatapath(tessdataPath);
-            } else {
-                File tessDataFolder = LoadLibs.extractTessResources("tessdata");
-                tess.setDatapath(tessDataFolder.getAbsolutePath());
-            }
-
-            tess.setLanguage("spa+eng");
-            tess.setPageSegMode(1);
-            tess.setOcrEngineMode(1);
-
-        } catch (Exception e) {
-            System.err.println("Error configurando Tesseract: " + e.getMessage());
-        }
-
-        return tess;
-    }
-
-    private BufferedImage preprocesarImagen(BufferedImage original, TipoDocumento tipoDocumento) {
-        // Preprocesamiento específico según el tipo de documento
-        BufferedImage procesada = original;
-
-        switch (tipoDocumento) {
-            case DNI, PASAPORTE:
-                // Documentos oficiales: mayor contraste y nitidez
-                procesada = convertirAGris(procesada);
-                procesada = aumentarContraste(procesada, 1.8);
-                procesada = aplicarFiltroNitidez(procesada);
-                break;
-
-            case FACTURA, CONTRATO:
-                // Documentos comerciales: menos agresivo
-                procesada = convertirAGris(procesada);
-                procesada = aumentarContraste(procesada, 1.3);
-                break;
-
-            case DOCUMENTO_MEDICO:
-                // Documentos médicos: preservar detalles
-                procesada = convertirAGris(procesada);
-                procesada = aumentarContraste(procesada, 1.5);
-                procesada = reducirRuido(procesada);
-                break;
-        }
-
-        // Escalar si es necesario
-        if (procesada.getWidth() < 1000) {
-            procesada = escalarImagen(procesada, 2.0);
-        }
-
-        return procesada;
-    }
-
-    private BufferedImage convertirAGris(BufferedImage original) {
-        BufferedImage gris = new BufferedImage(
-                original.getWidth(), original.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
-        Graphics2D g2d = gris.createGraphics();
-        g2d.drawImage(original, 0, 0, null);
-        g2d.dispose();
-        return gris;
-    }
-
-    private BufferedImage aumentarContraste(BufferedImage imagen, double factor) {
-        BufferedImage resultado = new BufferedImage(
-                imagen.getWidth(), imagen.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
-
-        for (int y = 0; y < imagen.getHeight(); y++) {
-            for (int x = 0; x < imagen.getWidth(); x++) {
-                int rgb = imagen.getRGB(x, y);
-                int gray = (rgb >> 16) & 0xFF;
-
-                gray = Math.min(255, Math.max(0, (int)((gray - 128) * factor + 128)));
-
-                int newRgb = (gray << 16) | (gray << 8) | gray;
-                resultado.setRGB(x, y, newRgb);
-            }
-        }
-
-        return resultado;
-    }
-
-    private BufferedImage aplicarFiltroNitidez(BufferedImage imagen) {
-        // Filtro de nitidez simple
-        float[] filtro = {
-                0, -1, 0,
-                -1, 5, -1,
-                0, -1, 0
-        };
-
-        return aplicarFiltroConvolucion(imagen, filtro, 3);
-    }
-
-    private BufferedImage reducirRuido(BufferedImage imagen) {
-        // Filtro gaussiano para reducir ruido
-        float[] filtro = {
-                1/16f, 2/16f, 1/16f,
-                2/16f, 4/16f, 2/16f,
-                1/16f, 2/16f, 1/16f
-        };
-
-        return aplicarFiltroConvolucion(imagen, filtro, 3);
-    }
-
-    private BufferedImage aplicarFiltroConvolucion(BufferedImage imagen, float[] filtro, int tamaño) {
-        BufferedImage resultado = new BufferedImage(
-                imagen.getWidth(), imagen.getHeight(), imagen.getType());
-
-        int offset = tamaño / 2;
-
-        for (int y = offset; y < imagen.getHeight() - offset; y++) {
-            for (int x = offset; x < imagen.getWidth() - offset; x++) {
-                float suma = 0;
-
-                for (int fy = 0; fy < tamaño; fy++) {
-                    for (int fx = 0; fx < tamaño; fx++) {
-                        int px = x + fx - offset;
-                        int py = y + fy - offset;
-                        int rgb = imagen.getRGB(px, py);
-                        int gray = (rgb >> 16) & 0xFF;
-                        suma += gray * filtro[fy * tamaño + fx];
-                    }
-                }
-
-                int valorFinal = Math.min(255, Math.max(0, (int)suma));
-                int newRgb = (valorFinal << 16) | (valorFinal << 8) | valorFinal;
-                resultado.setRGB(x, y, newRgb);
-            }
-        }
-
-        return resultado;
-    }
-
-    private BufferedImage escalarImagen(BufferedImage original, double factor) {
-        int nuevoAncho = (int)(original.getWidth() * factor);
-        int nuevaAltura = (int)(original.getHeight() * factor);
-
-        BufferedImage escalada = new BufferedImage(nuevoAncho, nuevaAltura, original.getType());
-        Graphics2D g2d = escalada.createGraphics();
-        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        g2d.drawImage(original, 0, 0, nuevoAncho, nuevaAltura, null);
-        g2d.dispose();
-
-        return escalada;
-    }
-
     private void extraerInformacionEspecifica(String texto, TipoDocumento tipoDocumento) {
         System.out.println("\n=== INFORMACIÓN EXTRAÍDA ===");
 
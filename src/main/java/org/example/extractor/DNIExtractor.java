@@ -2,12 +2,13 @@ package org.example.extractor;
 
 import net.sourceforge.tess4j.Tesseract;
 import net.sourceforge.tess4j.TesseractException;
-import net.sourceforge.tess4j.util.LoadLibs;
+import org.example.UniversalDocumentExtractor.TipoDocumento;
+import org.example.ocr.FabricaMotorOCR;
+import org.example.ocr.PerfilOCR;
+import org.example.ocr.PreprocesadorImagen;
 
 import javax.imageio.ImageIO;
-import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -29,8 +30,9 @@ public class DNIExtractor {
 
     public void procesarDNI() {
         try {
-            // Configurar Tesseract
-            Tesseract tesseract = configurarTesseract();
+            // Configurar Tesseract con el perfil de DNI
+            PerfilOCR perfil = PerfilOCR.paraTipo(TipoDocumento.DNI);
+            Tesseract tesseract = FabricaMotorOCR.crear(perfil);
 
             // Cargar imagen
             BufferedImage imagen = cargarImagen();
@@ -40,7 +42,7 @@ public class DNIExtractor {
             }
 
             // Preprocesar imagen para mejorar OCR
-            BufferedImage imagenProcesada = preprocesarImagen(imagen);
+            BufferedImage imagenProcesada = PreprocesadorImagen.aplicar(imagen, perfil);
 
             // Extraer texto
             String textoCompleto = tesseract.doOCR(imagenProcesada);
@@ -57,39 +59,6 @@ public class DNIExtractor {
         }
     }
 
-    private Tesseract configurarTesseract() {
-        Tesseract tesseract = new Tesseract();
-
-        try {
-            // Intentar usar tessdata del classpath
-            ClassLoader classLoader = getClass().getClassLoader();
-            URL tessdataURL = classLoader.getResource("tessdata");
-
-            if (tessdataURL != null) {
-                String tessdataPath = new File(tessdataURL.getFile()).getAbsolutePath();
-                tesseract.setDatapath(tessdataPath);
-            } else {
-                // Usar tessdata por defecto
-                File tessDataFolder = LoadLibs.extractTessResources("tessdata");
-                tesseract.setDatapath(tessDataFolder.getAbsolutePath());
-            }
-
-            // Configuraciones para mejorar OCR en documentos españoles
-            tesseract.setLanguage("spa+eng"); // Español e inglés
-            tesseract.setPageSegMode(1); // Automatic page segmentation with OSD
-            tesseract.setOcrEngineMode(1); // Neural nets LSTM engine only
-
-            // Variables de configuración adicionales
-            tesseract.setTessVariable("tessedit_char_whitelist",
-                    "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyzÁÉÍÓÚÑáéíóúñ :.-/");
-
-        } catch (Exception e) {
-            System.err.println("Error configurando Tesseract: " + e.getMessage());
-        }
-
-        return tesseract;
-    }
-
     private BufferedImage cargarImagen() {
         try {
             ClassLoader classLoader = getClass().getClassLoader();
@@ -108,58 +77,6 @@ public class DNIExtractor {
         }
     }
 
-    private BufferedImage preprocesarImagen(BufferedImage original) {
-        // Convertir a escala de grises
-        BufferedImage gris = new BufferedImage(
-                original.getWidth(), original.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
-        Graphics2D g2d = gris.createGraphics();
-        g2d.drawImage(original, 0, 0, null);
-        g2d.dispose();
-
-        // Aumentar contraste y nitidez
-        BufferedImage procesada = aumentarContraste(gris);
-
-        // Escalar imagen si es muy pequeña
-        if (procesada.getWidth() < 800) {
-            procesada = escalarImagen(procesada, 2.0);
-        }
-
-        return procesada;
-    }
-
-    private BufferedImage aumentarContraste(BufferedImage imagen) {
-        BufferedImage resultado = new BufferedImage(
-                imagen.getWidth(), imagen.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
-
-        for (int y = 0; y < imagen.getHeight(); y++) {
-            for (int x = 0; x < imagen.getWidth(); x++) {
-                int rgb = imagen.getRGB(x, y);
-                int gray = (rgb >> 16) & 0xFF;
-
-                // Aumentar contraste
-                gray = Math.min(255, Math.max(0, (int)((gray - 128) * 1.5 + 128)));
-
-                int newRgb = (gray << 16) | (gray << 8) | gray;
-                resultado.setRGB(x, y, newRgb);
-            }
-        }
-
-        return resultado;
-    }
-
-    private BufferedImage escalarImagen(BufferedImage original, double factor) {
-        int nuevoAncho = (int)(original.getWidth() * factor);
-        int nuevaAltura = (int)(original.getHeight() * factor);
-
-        BufferedImage escalada = new BufferedImage(nuevoAncho, nuevaAltura, original.getType());
-        Graphics2D g2d = escalada.createGraphics();
-        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        g2d.drawImage(original, 0, 0, nuevoAncho, nuevaAltura, null);
-        g2d.dispose();
-
-        return escalada;
-    }
-
     private void extraerInformacionDNI(String texto) {
         System.out.println("\n=== INFORMACIÓN EXTRAÍDA ===");
 
@@ -0,0 +1,191 @@
+package org.example.ocr;
+
+import net.sourceforge.tess4j.Tesseract;
+import org.example.UniversalDocumentExtractor;
+import org.example.UniversalDocumentExtractor.TipoDocumento;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Informe de latencia y precisión de cada perfil con los modelos fast y best.
+ * Las páginas se cargan y preprocesan una sola vez; la latencia solo mide
+ * {@code doOCR}, que en tess4j incluye la carga del modelo en cada llamada.
+ * La precisión solo se calcula si junto al documento de muestra existe un
+ * fichero .txt con el texto de referencia (p. ej. imagenes/dni.txt).
+ */
+public class ComparadorPerfilesOCR {
+
+    private static final int REPETICIONES = 3;
+
+    // Documentos de muestra para cada tipo
+    private static final Map<TipoDocumento, String> MUESTRAS = new EnumMap<>(TipoDocumento.class);
+
+    static {
+        MUESTRAS.put(TipoDocumento.DNI, "imagenes/dni.png");
+        MUESTRAS.put(TipoDocumento.PASAPORTE, "imagenes/pasaporte.png");
+        MUESTRAS.put(TipoDocumento.FACTURA, "imagenes/factura.png");
+        MUESTRAS.put(TipoDocumento.CONTRATO, "documentos/contrato.pdf");
+        MUESTRAS.put(TipoDocumento.DOCUMENTO_MEDICO, "imagenes/informe_medico.png");
+    }
+
+    private final UniversalDocumentExtractor extractor = new UniversalDocumentExtractor();
+
+    public static void main(String[] args) {
+        new ComparadorPerfilesOCR().generarInforme();
+    }
+
+    public void generarInforme() {
+        StringBuilder informe = new StringBuilder();
+        informe.append(String.format("%-18s %-8s %-8s %-6s %12s %10s%n",
+                "TIPO", "MODELO", "PERFIL", "PSM", "LATENCIA ms", "PRECISIÓN"));
+
+        for (TipoDocumento tipo : TipoDocumento.values()) {
+            PerfilOCR perfil = PerfilOCR.paraTipo(tipo);
+            String rutaMuestra = MUESTRAS.get(tipo);
+            List<BufferedImage> paginas = rutaMuestra == null ? List.of() : cargarPaginas(rutaMuestra, perfil);
+
+            if (paginas.isEmpty()) {
+                informe.append(String.format("%-18s %-8s %-8s %-6d %23s%n",
+                        tipo, "-", "", perfil.modoSegmentacion(), "sin muestra"));
+                continue;
+            }
+
+            String referencia = cargarReferencia(rutaMuestra);
+
+            for (PerfilOCR.VarianteModelo variante : PerfilOCR.VarianteModelo.values()) {
+                String marca = variante == perfil.variante() ? "*" : "";
+
+                // Sin el directorio de la variante se medirían los modelos por defecto
+                if (!FabricaMotorOCR.varianteDisponible(variante)) {
+                    informe.append(String.format("%-18s %-8s %-8s %-6d %23s%n",
+                            tipo, variante, marca, perfil.modoSegmentacion(), "no disponible"));
+                    continue;
+                }
+
+                Resultado resultado = medir(paginas, perfil.conVariante(variante), referencia);
+
+                if (resultado == null) {
+                    informe.append(String.format("%-18s %-8s %-8s %-6d %23s%n",
+                            tipo, variante, marca, perfil.modoSegmentacion(), "error"));
+                    continue;
+                }
+
+                informe.append(String.format("%-18s %-8s %-8s %-6d %12.1f %10s%n",
+                        tipo,
+                        variante,
+                        marca,
+                        perfil.modoSegmentacion(),
+                        resultado.latenciaMs(),
+                        resultado.precision() < 0 ? "n/d" : String.format("%.1f%%", resultado.precision() * 100)));
+            }
+        }
+
+        System.out.println("\n=== COMPARATIVA DE PERFILES OCR ===");
+        System.out.print(informe);
+        System.out.println("(* variante configurada en el perfil)");
+        for (PerfilOCR.VarianteModelo variante : PerfilOCR.VarianteModelo.values()) {
+            if (FabricaMotorOCR.varianteDisponible(variante)) {
+                System.out.println("Datos " + variante + ": " + FabricaMotorOCR.resolverDatapath(variante));
+            } else {
+                System.out.println("Datos " + variante + ": no disponible, copiar los modelos en src/main/resources/"
+                        + variante.getDirectorio());
+            }
+        }
+    }
+
+    private List<BufferedImage> cargarPaginas(String rutaArchivo, PerfilOCR perfil) {
+        try {
+            return extractor.cargarPaginas(rutaArchivo, perfil);
+        } catch (IOException e) {
+            System.err.println("Error cargando muestra: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private Resultado medir(List<BufferedImage> paginas, PerfilOCR perfil, String referencia) {
+        Tesseract tesseract = FabricaMotorOCR.crear(perfil);
+        StringBuilder texto = new StringBuilder();
+        long totalNanos = 0;
+
+        try {
+            for (int i = 0; i < REPETICIONES; i++) {
+                texto.setLength(0);
+                for (BufferedImage pagina : paginas) {
+                    long inicio = System.nanoTime();
+                    String textoPagina = tesseract.doOCR(pagina);
+                    totalNanos += System.nanoTime() - inicio;
+
+                    texto.append(textoPagina).append("\n");
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error midiendo perfil: " + e.getMessage());
+            return null;
+        }
+
+        double precision = referencia == null ? -1 : calcularPrecision(texto.toString(), referencia);
+        return new Resultado(totalNanos / 1_000_000.0 / REPETICIONES, precision);
+    }
+
+    private String cargarReferencia(String rutaArchivo) {
+        int ultimoPunto = rutaArchivo.lastIndexOf('.');
+        String rutaReferencia = rutaArchivo.substring(0, ultimoPunto) + ".txt";
+
+        try (InputStream entrada = getClass().getClassLoader().getResourceAsStream(rutaReferencia)) {
+            return entrada == null ? null : new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Error cargando referencia: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Precisión por caracteres: 1 - distancia de Levenshtein / longitud de la referencia.
+     */
+    private double calcularPrecision(String texto, String referencia) {
+        String obtenido = normalizar(texto);
+        String esperado = normalizar(referencia);
+
+        if (esperado.isEmpty()) {
+            return obtenido.isEmpty() ? 1 : 0;
+        }
+
+        int distancia = distanciaLevenshtein(obtenido, esperado);
+        return Math.max(0, 1 - (double) distancia / esperado.length());
+    }
+
+    private String normalizar(String texto) {
+        return texto.replaceAll("\\s+", " ").trim();
+    }
+
+    private int distanciaLevenshtein(String a, String b) {
+        int[] anterior = new int[b.length() + 1];
+        int[] actual = new int[b.length() + 1];
+
+        for (int j = 0; j <= b.length(); j++) {
+            anterior[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            actual[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int coste = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                actual[j] = Math.min(Math.min(actual[j - 1] + 1, anterior[j] + 1), anterior[j - 1] + coste);
+            }
+            int[] temporal = anterior;
+            anterior = actual;
+            actual = temporal;
+        }
+
+        return anterior[b.length()];
+    }
+
+    private record Resultado(double latenciaMs, double precision) {
+    }
+}
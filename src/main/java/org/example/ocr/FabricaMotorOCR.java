@@ -0,0 +1,112 @@
+package org.example.ocr;
+
+import net.sourceforge.tess4j.Tesseract;
+import net.sourceforge.tess4j.util.LoadLibs;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Construye motores Tesseract a partir de un {@link PerfilOCR}.
+ * <p>
+ * Los modelos de cada variante se buscan en el classpath, en
+ * {@code src/main/resources/tessdata_fast} y {@code src/main/resources/tessdata_best},
+ * con los .traineddata de los repositorios tesseract-ocr/tessdata_fast y
+ * tesseract-ocr/tessdata_best (spa, eng y osd).
+ */
+public final class FabricaMotorOCR {
+
+    // load_system_dawg y load_freq_dawg solo se leen al inicializar, por eso
+    // deben ir en un fichero de configuración y no con setTessVariable
+    private static final String CONFIG_SIN_DICCIONARIO = "load_system_dawg F\nload_freq_dawg F\n";
+
+    private static Path configSinDiccionario;
+
+    private static final Set<PerfilOCR.VarianteModelo> VARIANTES_AVISADAS =
+            EnumSet.noneOf(PerfilOCR.VarianteModelo.class);
+
+    private FabricaMotorOCR() {
+    }
+
+    /**
+     * Crea un motor que aplica el perfil completo. Si alguna opción no se
+     * puede aplicar se lanza IllegalStateException en lugar de devolver un
+     * motor que no corresponde al perfil.
+     */
+    public static Tesseract crear(PerfilOCR perfil) {
+        Tesseract tesseract = new Tesseract();
+
+        tesseract.setDatapath(resolverDatapath(perfil.variante()));
+        tesseract.setLanguage(perfil.idiomas());
+        tesseract.setPageSegMode(perfil.modoSegmentacion());
+        tesseract.setOcrEngineMode(1); // Los modelos fast y best son solo LSTM
+
+        if (perfil.whitelist() != null) {
+            tesseract.setTessVariable("tessedit_char_whitelist", perfil.whitelist());
+        }
+        if (perfil.blacklist() != null) {
+            tesseract.setTessVariable("tessedit_char_blacklist", perfil.blacklist());
+        }
+        if (!perfil.diccionario()) {
+            try {
+                tesseract.setConfigs(List.of(obtenerConfigSinDiccionario().toString()));
+            } catch (IOException e) {
+                throw new IllegalStateException("No se pudo desactivar el diccionario de Tesseract", e);
+            }
+        }
+
+        return tesseract;
+    }
+
+    /**
+     * Busca en el classpath el directorio de la variante (tessdata_fast o
+     * tessdata_best); si no existe avisa por stderr y recurre a tessdata y,
+     * en último caso, a los datos incluidos en tess4j.
+     */
+    public static String resolverDatapath(PerfilOCR.VarianteModelo variante) {
+        if (varianteDisponible(variante)) {
+            return buscarDirectorio(variante.getDirectorio()).getAbsolutePath();
+        }
+
+        avisarVarianteNoDisponible(variante);
+
+        File tessdata = buscarDirectorio("tessdata");
+        if (tessdata != null) {
+            return tessdata.getAbsolutePath();
+        }
+
+        File tessDataFolder = LoadLibs.extractTessResources("tessdata");
+        return tessDataFolder.getAbsolutePath();
+    }
+
+    public static boolean varianteDisponible(PerfilOCR.VarianteModelo variante) {
+        return buscarDirectorio(variante.getDirectorio()) != null;
+    }
+
+    private static File buscarDirectorio(String directorio) {
+        URL tessdataURL = FabricaMotorOCR.class.getClassLoader().getResource(directorio);
+        return tessdataURL == null ? null : new File(tessdataURL.getFile());
+    }
+
+    private static synchronized void avisarVarianteNoDisponible(PerfilOCR.VarianteModelo variante) {
+        if (VARIANTES_AVISADAS.add(variante)) {
+            System.err.println("AVISO: no se encontró " + variante.getDirectorio()
+                    + " en el classpath; se usarán los modelos por defecto en lugar de " + variante);
+        }
+    }
+
+    private static synchronized Path obtenerConfigSinDiccionario() throws IOException {
+        if (configSinDiccionario == null) {
+            configSinDiccionario = Files.createTempFile("ocr-sin-diccionario", ".config");
+            Files.writeString(configSinDiccionario, CONFIG_SIN_DICCIONARIO);
+            configSinDiccionario.toFile().deleteOnExit();
+        }
+        return configSinDiccionario;
+    }
+}
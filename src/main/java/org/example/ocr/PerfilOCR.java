@@ -0,0 +1,112 @@
+package org.example.ocr;
+
+import org.example.UniversalDocumentExtractor.TipoDocumento;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configuración declarativa de Tesseract para un tipo de documento: idiomas,
+ * variante de modelo (fast/best), modo de segmentación, listas de caracteres,
+ * uso del diccionario y cadena de preprocesado.
+ */
+public record PerfilOCR(
+        String idiomas,
+        VarianteModelo variante,
+        int modoSegmentacion,
+        String whitelist,
+        String blacklist,
+        boolean diccionario,
+        List<PasoPreprocesado> preprocesado) {
+
+    private static final String WHITELIST_IDENTIDAD =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyzÁÉÍÓÚÑáéíóúñ :.-/<";
+    private static final String BLACKLIST_RUIDO = "|~`^";
+
+    private static final Map<TipoDocumento, PerfilOCR> PERFILES = new EnumMap<>(TipoDocumento.class);
+
+    static {
+        // Documentos de identidad: texto disperso, códigos y nombres propios sin diccionario
+        PERFILES.put(TipoDocumento.DNI, new PerfilOCR(
+                "spa", VarianteModelo.FAST, 11, WHITELIST_IDENTIDAD, null, false,
+                List.of(PasoPreprocesado.gris(), PasoPreprocesado.contraste(1.8), PasoPreprocesado.nitidez())));
+        PERFILES.put(TipoDocumento.PASAPORTE, new PerfilOCR(
+                "spa+eng", VarianteModelo.FAST, 11, WHITELIST_IDENTIDAD, null, false,
+                List.of(PasoPreprocesado.gris(), PasoPreprocesado.contraste(1.8), PasoPreprocesado.nitidez())));
+
+        // Documentos comerciales: bloques de texto, preprocesado menos agresivo
+        PERFILES.put(TipoDocumento.FACTURA, new PerfilOCR(
+                "spa", VarianteModelo.FAST, 4, null, BLACKLIST_RUIDO, true,
+                List.of(PasoPreprocesado.gris(), PasoPreprocesado.contraste(1.3))));
+        PERFILES.put(TipoDocumento.CONTRATO, new PerfilOCR(
+                "spa", VarianteModelo.FAST, 3, null, BLACKLIST_RUIDO, true,
+                List.of(PasoPreprocesado.gris(), PasoPreprocesado.contraste(1.3))));
+
+        // Documentos médicos: se prioriza la precisión sobre la latencia
+        PERFILES.put(TipoDocumento.DOCUMENTO_MEDICO, new PerfilOCR(
+                "spa+eng", VarianteModelo.BEST, 3, null, BLACKLIST_RUIDO, true,
+                List.of(PasoPreprocesado.gris(), PasoPreprocesado.contraste(1.5), PasoPreprocesado.reducirRuido())));
+
+        for (TipoDocumento tipo : TipoDocumento.values()) {
+            if (!PERFILES.containsKey(tipo)) {
+                throw new IllegalStateException("Falta el PerfilOCR para el tipo de documento " + tipo);
+            }
+        }
+    }
+
+    public PerfilOCR {
+        preprocesado = List.copyOf(preprocesado);
+    }
+
+    public static PerfilOCR paraTipo(TipoDocumento tipoDocumento) {
+        return Objects.requireNonNull(PERFILES.get(tipoDocumento),
+                "No hay PerfilOCR para el tipo de documento " + tipoDocumento);
+    }
+
+    public PerfilOCR conVariante(VarianteModelo nuevaVariante) {
+        return new PerfilOCR(idiomas, nuevaVariante, modoSegmentacion, whitelist, blacklist, diccionario, preprocesado);
+    }
+
+    public enum VarianteModelo {
+        FAST("tessdata_fast"),
+        BEST("tessdata_best");
+
+        private final String directorio;
+
+        VarianteModelo(String directorio) {
+            this.directorio = directorio;
+        }
+
+        public String getDirectorio() {
+            return directorio;
+        }
+    }
+
+    public enum Operacion {
+        ESCALA_GRISES,
+        CONTRASTE,
+        NITIDEZ,
+        REDUCIR_RUIDO
+    }
+
+    public record PasoPreprocesado(Operacion operacion, double parametro) {
+
+        public static PasoPreprocesado gris() {
+            return new PasoPreprocesado(Operacion.ESCALA_GRISES, 0);
+        }
+
+        public static PasoPreprocesado contraste(double factor) {
+            return new PasoPreprocesado(Operacion.CONTRASTE, factor);
+        }
+
+        public static PasoPreprocesado nitidez() {
+            return new PasoPreprocesado(Operacion.NITIDEZ, 0);
+        }
+
+        public static PasoPreprocesado reducirRuido() {
+            return new PasoPreprocesado(Operacion.REDUCIR_RUIDO, 0);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.ocr;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Aplica la cadena de preprocesado de un {@link PerfilOCR} antes del OCR.
+ */
+public final class PreprocesadorImagen {
+
+    private PreprocesadorImagen() {
+    }
+
+    public static BufferedImage aplicar(BufferedImage original, PerfilOCR perfil) {
+        // Preprocesamiento definido en el perfil del tipo de documento
+        BufferedImage procesada = original;
+
+        for (PerfilOCR.PasoPreprocesado paso : perfil.preprocesado()) {
+            procesada = switch (paso.operacion()) {
+                case ESCALA_GRISES -> convertirAGris(procesada);
+                case CONTRASTE -> aumentarContraste(procesada, paso.parametro());
+                case NITIDEZ -> aplicarFiltroNitidez(procesada);
+                case REDUCIR_RUIDO -> reducirRuido(procesada);
+            };
+        }
+
+        // Escalar si es necesario
+        if (procesada.getWidth() < 1000) {
+            procesada = escalarImagen(procesada, 2.0);
+        }
+
+        return procesada;
+    }
+
+    private static BufferedImage convertirAGris(BufferedImage original) {
+        BufferedImage gris = new BufferedImage(
+                original.getWidth(), original.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g2d = gris.createGraphics();
+        g2d.drawImage(original, 0, 0, null);
+        g2d.dispose();
+        return gris;
+    }
+
+    private static BufferedImage aumentarContraste(BufferedImage imagen, double factor) {
+        BufferedImage resultado = new BufferedImage(
+                imagen.getWidth(), imagen.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+
+        for (int y = 0; y < imagen.getHeight(); y++) {
+            for (int x = 0; x < imagen.getWidth(); x++) {
+                int rgb = imagen.getRGB(x, y);
+                int gray = (rgb >> 16) & 0xFF;
+
+                gray = Math.min(255, Math.max(0, (int)((gray - 128) * factor + 128)));
+
+                int newRgb = (gray << 16) | (gray << 8) | gray;
+                resultado.setRGB(x, y, newRgb);
+            }
+        }
+
+        return resultado;
+    }
+
+    private static BufferedImage aplicarFiltroNitidez(BufferedImage imagen) {
+        // Filtro de nitidez simple
+        float[] filtro = {
+                0, -1, 0,
+                -1, 5, -1,
+                0, -1, 0
+        };
+
+        return aplicarFiltroConvolucion(imagen, filtro, 3);
+    }
+
+    private static BufferedImage reducirRuido(BufferedImage imagen) {
+        // Filtro gaussiano para reducir ruido
+        float[] filtro = {
+                1/16f, 2/16f, 1/16f,
+                2/16f, 4/16f, 2/16f,
+                1/16f, 2/16f, 1/16f
+        };
+
+        return aplicarFiltroConvolucion(imagen, filtro, 3);
+    }
+
+    private static BufferedImage aplicarFiltroConvolucion(BufferedImage imagen, float[] filtro, int tamaño) {
+        BufferedImage resultado = new BufferedImage(
+                imagen.getWidth(), imagen.getHeight(), imagen.getType());
+
+        int offset = tamaño / 2;
+
+        for (int y = offset; y < imagen.getHeight() - offset; y++) {
+            for (int x = offset; x < imagen.getWidth() - offset; x++) {
+                float suma = 0;
+
+                for (int fy = 0; fy < tamaño; fy++) {
+                    for (int fx = 0; fx < tamaño; fx++) {
+                        int px = x + fx - offset;
+                        int py = y + fy - offset;
+                        int rgb = imagen.getRGB(px, py);
+                        int gray = (rgb >> 16) & 0xFF;
+                        suma += gray * filtro[fy * tamaño + fx];
+                    }
+                }
+
+                int valorFinal = Math.min(255, Math.max(0, (int)suma));
+                int newRgb = (valorFinal << 16) | (valorFinal << 8) | valorFinal;
+                resultado.setRGB(x, y, newRgb);
+            }
+        }
+
+        return resultado;
+    }
+
+    private static BufferedImage escalarImagen(BufferedImage original, double factor) {
+        int nuevoAncho = (int)(original.getWidth() * factor);
+        int nuevaAltura = (int)(original.getHeight() * factor);
+
+        BufferedImage escalada = new BufferedImage(nuevoAncho, nuevaAltura, original.getType());
+        Graphics2D g2d = escalada.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2d.drawImage(original, 0, 0, nuevoAncho, nuevaAltura, null);
+        g2d.dispose();
+
+        return escalada;
+    }
+}